@@ -0,0 +1,210 @@
+package gantt;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+/**
+ * Point d'entrée headless : rend en PNG tous les fichiers projet d'un dossier, sans JFrame.
+ * Chaque tâche de rendu crée son propre GanttPanelZoom, aucun état de dessin n'est partagé.
+ *
+ * Usage : java -Djava.awt.headless=true gantt.GanttBatchRenderer
+ *             dossier échelle zoom [threads] [largeur] [sortie]
+ */
+public class GanttBatchRenderer {
+
+    private static final String PROJECT_EXTENSION = ".gantt";
+    private static final int DEFAULT_WIDTH = 1400;
+    private static final String USAGE =
+            "Usage : GanttBatchRenderer dossier échelle zoom [threads] [largeur] [sortie]";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        Path inputDir = Paths.get(args[0]);
+        GanttPanelZoom.ScaleType scaleType = parseScaleType(args[1]);
+        double zoomFactor = parseZoomFactor(args[2]);
+        int threads = Math.max(1, args.length > 3
+                ? parseInt(args[3], "Nombre de threads")
+                : Runtime.getRuntime().availableProcessors());
+        int width = args.length > 4 ? parseInt(args[4], "Largeur") : DEFAULT_WIDTH;
+        if (width <= 0) {
+            exitWithUsage("Largeur invalide : " + width + " (doit être positive)");
+        }
+        Path outputDir = args.length > 5 ? Paths.get(args[5]) : inputDir.resolve("png");
+
+        if (!Files.isDirectory(inputDir)) {
+            System.err.println("Dossier introuvable : " + inputDir);
+            System.exit(1);
+        }
+        List<Path> projects = listProjects(inputDir);
+        if (projects.isEmpty()) {
+            System.err.println("Aucun fichier " + PROJECT_EXTENSION + " dans " + inputDir);
+            System.exit(1);
+        }
+        Files.createDirectories(outputDir);
+
+        renderAll(projects, outputDir, scaleType, zoomFactor, threads, width);
+    }
+
+    private static GanttPanelZoom.ScaleType parseScaleType(String value) {
+        try {
+            return GanttPanelZoom.ScaleType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            exitWithUsage("Échelle inconnue : " + value + ", valeurs possibles : "
+                    + Arrays.toString(GanttPanelZoom.ScaleType.values()));
+            return null;
+        }
+    }
+
+    private static double parseZoomFactor(String value) {
+        try {
+            double zoomFactor = Double.parseDouble(value);
+            if (Double.isFinite(zoomFactor) && zoomFactor > 0) {
+                return zoomFactor;
+            }
+        } catch (NumberFormatException e) {
+            // Traité ci-dessous
+        }
+        exitWithUsage("Zoom invalide : " + value + " (nombre positif attendu)");
+        return 0;
+    }
+
+    private static int parseInt(String value, String label) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            exitWithUsage(label + " invalide : " + value + " (entier attendu)");
+            return 0;
+        }
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(USAGE);
+        System.err.println(message);
+        System.exit(1);
+    }
+
+    /**
+     * Initialise Swing (look-and-feel, polices) une seule fois sur le thread principal,
+     * avant que les threads du pool ne créent leurs panneaux.
+     */
+    private static void warmUpSwing(int width) {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("", LocalDate.now(), 1, 0, "Normale"));
+        new GanttPanelZoom(tasks).renderToImage(width);
+    }
+
+    private static List<Path> listProjects(Path dir) throws IOException {
+        List<Path> projects = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + PROJECT_EXTENSION)) {
+            for (Path file : stream) {
+                projects.add(file);
+            }
+        }
+        projects.sort(null);
+        return projects;
+    }
+
+    private static void renderAll(List<Path> projects, Path outputDir, GanttPanelZoom.ScaleType scaleType,
+                                  double zoomFactor, int threads, int width) throws InterruptedException {
+        warmUpSwing(width);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CompletionService<RenderResult> completion = new ExecutorCompletionService<>(pool);
+        Map<Future<RenderResult>, Path> projectByJob = new HashMap<>();
+
+        long batchStart = System.nanoTime();
+        for (Path project : projects) {
+            projectByJob.put(completion.submit(() -> render(project, outputDir, scaleType, zoomFactor, width)),
+                    project);
+        }
+
+        int succeeded = 0;
+        long totalLatency = 0;
+        long minLatency = Long.MAX_VALUE;
+        long maxLatency = 0;
+
+        for (int i = 0; i < projects.size(); i++) {
+            Future<RenderResult> job = completion.take();
+            try {
+                RenderResult result = job.get();
+                succeeded++;
+                totalLatency += result.latencyNanos;
+                minLatency = Math.min(minLatency, result.latencyNanos);
+                maxLatency = Math.max(maxLatency, result.latencyNanos);
+                System.out.printf("%s : %d tâches, %.1f ms%n",
+                        result.project.getFileName(), result.taskCount, toMillis(result.latencyNanos));
+            } catch (ExecutionException e) {
+                System.err.println("Échec du rendu de " + projectByJob.get(job) + " : " + e.getCause());
+            }
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - batchStart;
+
+        System.out.printf("%d/%d projets rendus en %.1f ms (%d threads)%n",
+                succeeded, projects.size(), toMillis(elapsed), threads);
+        if (succeeded > 0) {
+            System.out.printf("Débit : %.2f projets/s%n", succeeded / (elapsed / 1e9));
+            System.out.printf("Latence par projet : min %.1f ms, moy %.1f ms, max %.1f ms%n",
+                    toMillis(minLatency), toMillis(totalLatency / succeeded), toMillis(maxLatency));
+        }
+    }
+
+    private static RenderResult render(Path project, Path outputDir, GanttPanelZoom.ScaleType scaleType,
+                                       double zoomFactor, int width) throws IOException {
+        long start = System.nanoTime();
+        List<Task> tasks = TaskFileParser.load(project);
+
+        GanttPanelZoom panel = new GanttPanelZoom(tasks);
+        panel.setScaleType(scaleType);
+        panel.setZoomFactor(zoomFactor);
+        BufferedImage image = panel.renderToImage(width);
+
+        String name = project.getFileName().toString();
+        String baseName = name.substring(0, name.length() - PROJECT_EXTENSION.length());
+        ImageIO.write(image, "png", outputDir.resolve(baseName + ".png").toFile());
+
+        return new RenderResult(project, tasks.size(), System.nanoTime() - start);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class RenderResult {
+        final Path project;
+        final int taskCount;
+        final long latencyNanos;
+
+        RenderResult(Path project, int taskCount, long latencyNanos) {
+            this.project = project;
+            this.taskCount = taskCount;
+            this.latencyNanos = latencyNanos;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package gantt;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import javax.swing.*;
 
 /**
@@ -21,6 +26,9 @@ public class GanttPanelZoom extends JPanel {
     }
 
     private List<Task> tasks;
+    // Position de chaque tâche dans la liste, tenue à jour par applyTaskUpdates
+    private final Map<String, Integer> indexByName = new HashMap<>();
+    private int indexedSize;
     private LocalDate projectStart;
     private LocalDate projectEnd;
     private ScaleType scaleType = ScaleType.DAY;
@@ -50,6 +58,8 @@ public class GanttPanelZoom extends JPanel {
 
     /**
      * Constructeur du panneau Gantt (diagramme uniquement, sans les noms).
+     * La liste n'est pas copiée, pour pouvoir être partagée avec un TaskNamesPanel :
+     * elle doit être modifiable (ArrayList) si applyTaskUpdates est utilisé.
      */
     public GanttPanelZoom(List<Task> tasks) {
         if (tasks == null || tasks.isEmpty()) {
@@ -57,6 +67,7 @@ public class GanttPanelZoom extends JPanel {
         }
         
         this.tasks = tasks;
+        rebuildIndex();
         calculateProjectBounds();
         setBackground(Color.WHITE);
     }
@@ -83,6 +94,103 @@ public class GanttPanelZoom extends JPanel {
         repaint();
     }
 
+    /**
+     * Applique un lot de mises à jour à la liste des tâches (à appeler sur l'EDT).
+     * Une tâche portant le même nom qu'une tâche existante la remplace, sinon elle est ajoutée.
+     * Le coût dépend de la taille du lot, pas du nombre total de tâches.
+     */
+    public void applyTaskUpdates(Collection<Task> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        boolean boundsShrinkable = false;
+        for (Task update : updates) {
+            Integer index = findIndex(update.getName());
+            if (index != null) {
+                Task previous = tasks.set(index, update);
+                // Remplacer une tâche en bordure peut réduire la plage du projet
+                boundsShrinkable |= previous.getStartDate().equals(projectStart)
+                        || taskEnd(previous).equals(projectEnd);
+            } else {
+                indexByName.put(update.getName(), tasks.size());
+                tasks.add(update);
+                indexedSize = tasks.size();
+            }
+            extendProjectBounds(update);
+        }
+
+        if (boundsShrinkable) {
+            calculateProjectBounds();
+        }
+
+        // La liste peut être partagée avec un panneau des noms : repeindre toute la fenêtre
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window != null) {
+            window.repaint();
+        } else {
+            repaint();
+        }
+    }
+
+    private Integer findIndex(String name) {
+        Integer index = indexByName.get(name);
+        if (index != null && index < tasks.size() && tasks.get(index).getName().equals(name)) {
+            return index;
+        }
+        // Liste modifiée hors de applyTaskUpdates : resynchroniser l'index
+        if (index != null || indexedSize != tasks.size()) {
+            rebuildIndex();
+            return indexByName.get(name);
+        }
+        return null;
+    }
+
+    private void rebuildIndex() {
+        indexByName.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            indexByName.put(tasks.get(i).getName(), i);
+        }
+        indexedSize = tasks.size();
+    }
+
+    private void extendProjectBounds(Task task) {
+        if (task.getStartDate().isBefore(projectStart)) {
+            projectStart = task.getStartDate();
+        }
+        if (taskEnd(task).isAfter(projectEnd)) {
+            projectEnd = taskEnd(task);
+        }
+    }
+
+    private static LocalDate taskEnd(Task task) {
+        return task.getStartDate().plusDays(task.getDuration());
+    }
+
+    /**
+     * Dessine le diagramme dans une image hors écran (utilisable en mode headless, sans JFrame).
+     * Chaque appel travaille sur son propre Graphics2D : aucun état de dessin n'est partagé.
+     */
+    public BufferedImage renderToImage(int width) {
+        DateRange visibleRange = calculateVisibleRange();
+        long totalUnits = calculateTotalUnits(visibleRange);
+        int height = calculatePanelHeight();
+
+        setSize(width, height);
+        double unitWidth = calculateAdjustedUnitWidth(totalUnits);
+        int panelWidth = Math.max(width, calculatePanelWidth(totalUnits, unitWidth));
+        setSize(panelWidth, height);
+
+        BufferedImage image = new BufferedImage(panelWidth, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            print(g2);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
     private double getBaseUnitWidth() {
         double baseWidth;
         switch (scaleType) {
@@ -458,13 +566,21 @@ private void drawHorizontalGridLines(Graphics2D g2) {
     }
 
     private void updatePanelSize(long totalUnits, double unitWidth) {
-        int panelWidth = LEFT_MARGIN + (int) Math.round(totalUnits * unitWidth) + RIGHT_PADDING;
-        int panelHeight = Y_OFFSET + (tasks.size() * (TASK_HEIGHT + TASK_SPACING)) + 50;
+        int panelWidth = calculatePanelWidth(totalUnits, unitWidth);
+        int panelHeight = calculatePanelHeight();
         
         setPreferredSize(new Dimension(panelWidth, panelHeight));
         revalidate();
     }
 
+    private int calculatePanelWidth(long totalUnits, double unitWidth) {
+        return LEFT_MARGIN + (int) Math.round(totalUnits * unitWidth) + RIGHT_PADDING;
+    }
+
+    private int calculatePanelHeight() {
+        return Y_OFFSET + (tasks.size() * (TASK_HEIGHT + TASK_SPACING)) + 50;
+    }
+
     // CLASSES INTERNES
     private static class DateRange {
         final LocalDate start;
@@ -565,11 +681,14 @@ public static class TaskNamesPanel extends JPanel {
     // ========== MÉTHODE UTILE POUR CRÉER LE LAYOUT COMPLET ==========
     
     /**
-     * Crée un JSplitPane avec les noms à gauche et le diagramme à droite
+     * Crée un JSplitPane avec les noms à gauche et le diagramme à droite.
+     * La liste reçue est copiée une fois et partagée par les deux panneaux.
      */
     public static JSplitPane createGanttView(List<Task> tasks) {
-        TaskNamesPanel namesPanel = new TaskNamesPanel(tasks);
-        GanttPanelZoom ganttPanel = new GanttPanelZoom(tasks);
+        // Une seule copie modifiable, partagée par les deux panneaux pour rester alignés
+        List<Task> sharedTasks = new ArrayList<>(tasks);
+        TaskNamesPanel namesPanel = new TaskNamesPanel(sharedTasks);
+        GanttPanelZoom ganttPanel = new GanttPanelZoom(sharedTasks);
         
         JScrollPane ganttScrollPane = new JScrollPane(ganttPanel);
         ganttScrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
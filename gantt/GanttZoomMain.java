@@ -1,6 +1,8 @@
 package gantt;
 
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -57,5 +59,14 @@ public class GanttZoomMain {
 
         frame.setLocationRelativeTo(null);
         frame.setVisible(true);
+
+        // Mode direct : suivre un journal de modifications passé en argument
+        if (args.length > 0) {
+            try {
+                new LiveTaskFeed(Paths.get(args[0]), ganttPanel).start();
+            } catch (IOException e) {
+                System.err.println("Impossible de suivre " + args[0] + " : " + e.getMessage());
+            }
+        }
     }
 }
\ No newline at end of file
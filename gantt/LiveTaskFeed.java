@@ -0,0 +1,389 @@
+package gantt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+
+/**
+ * Suivi en direct d'un journal de modifications (append-only) au format des fichiers projet.
+ *
+ * Un thread d'ingestion surveille le fichier (WatchService), lit les nouveaux octets
+ * avec un FileChannel et analyse les lignes hors de l'EDT. Les mises à jour sont fusionnées
+ * par nom de tâche (la plus récente l'emporte) puis appliquées au panneau par lots, au plus
+ * un lot par image et un seul lot en attente dans la file d'événements à la fois.
+ *
+ * Si le fichier est remplacé (rotation, renommage), la fin de l'ancien fichier est lue
+ * puis le suivi reprend au début du nouveau.
+ */
+public class LiveTaskFeed {
+
+    private static final long FRAME_MILLIS = 16;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PENDING_UPDATES = 10_000;
+    private static final long RETRY_MILLIS = 1000;
+
+    private final Path logFile;
+    private final GanttPanelZoom ganttPanel;
+
+    // Mises à jour en attente, fusionnées par nom de tâche (protégées par le verrou de la map)
+    private final Map<String, Task> pendingUpdates = new LinkedHashMap<>();
+    private final AtomicBoolean batchQueued = new AtomicBoolean(false);
+
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private FileChannel channel;
+    private BasicFileAttributes channelAttributes;
+    private boolean replacementSuspected;
+    private long readPosition;
+    private long lastFlushNanos;
+    // Écrit uniquement par le thread d'ingestion
+    private volatile long invalidLines;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Thread ingestThread;
+
+    public LiveTaskFeed(Path logFile, GanttPanelZoom ganttPanel) {
+        this.logFile = logFile.toAbsolutePath();
+        this.ganttPanel = ganttPanel;
+    }
+
+    /**
+     * Démarre le suivi du fichier depuis son début, y compris après un stop().
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        awaitIngestThread();
+
+        readPosition = 0;
+        partialLine.reset();
+        invalidLines = 0;
+        replacementSuspected = false;
+        synchronized (pendingUpdates) {
+            pendingUpdates.clear();
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        logFile.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        running = true;
+        ingestThread = new Thread(this::ingestLoop, "gantt-live-feed");
+        ingestThread.setDaemon(true);
+        ingestThread.start();
+    }
+
+    /**
+     * Arrête le suivi. Les mises à jour déjà en attente sont abandonnées.
+     */
+    public synchronized void stop() {
+        running = false;
+        closeWatchService();
+        if (ingestThread != null) {
+            ingestThread.interrupt();
+        }
+        awaitIngestThread();
+    }
+
+    /**
+     * Attend la fin du thread précédent pour qu'un start() suivant reparte d'un état propre.
+     */
+    private void awaitIngestThread() {
+        if (ingestThread == null) {
+            return;
+        }
+        try {
+            ingestThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ingestThread = null;
+    }
+
+    private void closeWatchService() {
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Fermeture du WatchService impossible : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Nombre de lignes ignorées car mal formées.
+     */
+    public long getInvalidLines() {
+        return invalidLines;
+    }
+
+    private void ingestLoop() {
+        lastFlushNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(FRAME_MILLIS);
+        try {
+            while (running) {
+                try {
+                    openWhenAvailable();
+                    followChannel();
+                } catch (ClosedWatchServiceException e) {
+                    throw e;
+                } catch (IOException e) {
+                    // Erreur d'accès (droits, disque...) : réessayer plus tard comme pour un fichier absent
+                    if (running) {
+                        System.err.println("Lecture du journal " + logFile + " impossible : " + e.getMessage());
+                    }
+                    closeChannel();
+                    waitForEvents(RETRY_MILLIS);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Arrêt demandé
+        } finally {
+            closeChannel();
+            // Sortie imprévue : libérer le WatchService pour qu'un start() suivant reparte de zéro
+            running = false;
+            closeWatchService();
+        }
+    }
+
+    private void followChannel() throws IOException, InterruptedException {
+        boolean caughtUp = true;
+        while (running) {
+            // Tant qu'il reste des octets à lire, ne pas attendre : seul l'envoi des lots est cadencé
+            long timeout = caughtUp ? FRAME_MILLIS : 0;
+            WatchKey key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+            if (key != null) {
+                handleEvents(key);
+            }
+
+            if (isBackpressured()) {
+                // L'EDT n'a pas encore consommé le lot : ne plus lire tant qu'il n'a pas rattrapé
+                Thread.sleep(1);
+            } else {
+                caughtUp = readAvailable();
+                if (caughtUp && replacementSuspected) {
+                    reopenIfReplaced();
+                    caughtUp = false;
+                }
+            }
+            flushIfDue();
+        }
+    }
+
+    private void handleEvents(WatchKey key) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && logFile.getFileName().equals(event.context()))) {
+                replacementSuspected = true;
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Attend les événements du dossier en continuant d'envoyer les lots déjà lus.
+     */
+    private void waitForEvents(long millis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (running && System.nanoTime() < deadline) {
+            WatchKey key = watchService.poll(FRAME_MILLIS, TimeUnit.MILLISECONDS);
+            if (key != null) {
+                key.pollEvents();
+                key.reset();
+            }
+            flushIfDue();
+        }
+    }
+
+    private void openWhenAvailable() throws IOException, InterruptedException {
+        while (running) {
+            try {
+                channel = FileChannel.open(logFile, StandardOpenOption.READ);
+                channelAttributes = readAttributes();
+                readPosition = 0;
+                partialLine.reset();
+                return;
+            } catch (NoSuchFileException e) {
+                waitForEvents(FRAME_MILLIS);
+            }
+        }
+        throw new InterruptedException();
+    }
+
+    /**
+     * Appelé une fois l'ancien fichier lu jusqu'au bout : bascule sur le nouveau fichier
+     * si le chemin ne désigne plus celui qui est ouvert. Un simple OVERFLOW passe aussi par ici
+     * et ne provoque une réouverture que si le fichier a réellement changé.
+     */
+    private void reopenIfReplaced() throws IOException, InterruptedException {
+        replacementSuspected = false;
+        BasicFileAttributes current;
+        try {
+            current = readAttributes();
+        } catch (NoSuchFileException e) {
+            current = null;
+        }
+        if (current != null && isSameFile(current)) {
+            return;
+        }
+
+        closeChannel();
+        openWhenAvailable();
+    }
+
+    private boolean isSameFile(BasicFileAttributes current) {
+        Object key = current.fileKey();
+        if (key != null) {
+            return key.equals(channelAttributes.fileKey());
+        }
+        // Pas de fileKey (Windows) : même date de création et fichier pas plus court que la lecture
+        return current.creationTime().equals(channelAttributes.creationTime())
+                && current.size() >= readPosition;
+    }
+
+    private BasicFileAttributes readAttributes() throws IOException {
+        return Files.readAttributes(logFile, BasicFileAttributes.class);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Fermeture du journal " + logFile + " impossible : " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private boolean isBackpressured() {
+        synchronized (pendingUpdates) {
+            return pendingUpdates.size() >= MAX_PENDING_UPDATES;
+        }
+    }
+
+    /**
+     * Lit au plus un tampon de nouvelles données, pour pouvoir envoyer les lots entre deux lectures.
+     * Renvoie true si tout le fichier a été lu.
+     */
+    private boolean readAvailable() throws IOException {
+        long size = channel.size();
+        if (size < readPosition) {
+            // Fichier tronqué sur place : reprendre depuis le début
+            readPosition = 0;
+            partialLine.reset();
+        }
+        if (size == readPosition) {
+            return true;
+        }
+
+        readBuffer.clear();
+        int read = channel.read(readBuffer, readPosition);
+        if (read <= 0) {
+            return true;
+        }
+        readPosition += read;
+
+        List<Task> parsed = new ArrayList<>();
+        byte[] bytes = readBuffer.array();
+        int lineStart = 0;
+        for (int i = 0; i < read; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line;
+            if (partialLine.size() == 0) {
+                line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            } else {
+                // Début de ligne lu au tour précédent
+                partialLine.write(bytes, lineStart, i - lineStart);
+                line = new String(partialLine.toByteArray(), StandardCharsets.UTF_8);
+                partialLine.reset();
+            }
+            parseInto(line, parsed);
+            lineStart = i + 1;
+        }
+        partialLine.write(bytes, lineStart, read - lineStart);
+
+        synchronized (pendingUpdates) {
+            for (Task task : parsed) {
+                // Retirer puis remettre conserve l'ordre d'arrivée de la dernière modification
+                pendingUpdates.remove(task.getName());
+                pendingUpdates.put(task.getName(), task);
+            }
+        }
+        return readPosition >= size;
+    }
+
+    private void parseInto(String line, List<Task> parsed) {
+        if (TaskFileParser.isIgnored(line)) {
+            return;
+        }
+        try {
+            parsed.add(TaskFileParser.parseLine(line.replace("\r", "")));
+        } catch (IllegalArgumentException e) {
+            invalidLines++;
+        }
+    }
+
+    /**
+     * Envoie un lot vers l'EDT si l'image courante n'en a pas déjà reçu un
+     * et si le lot précédent a été appliqué.
+     */
+    private void flushIfDue() {
+        long now = System.nanoTime();
+        if (now - lastFlushNanos < TimeUnit.MILLISECONDS.toNanos(FRAME_MILLIS)) {
+            return;
+        }
+        synchronized (pendingUpdates) {
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+        }
+        if (!batchQueued.compareAndSet(false, true)) {
+            return;
+        }
+
+        lastFlushNanos = now;
+        SwingUtilities.invokeLater(this::applyBatch);
+    }
+
+    private void applyBatch() {
+        List<Task> batch;
+        synchronized (pendingUpdates) {
+            batch = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+        }
+        try {
+            if (running) {
+                ganttPanel.applyTaskUpdates(batch);
+            }
+        } finally {
+            batchQueued.set(false);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package gantt;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecture des fichiers projet texte.
+ * Une tâche par ligne : nom;aaaa-mm-jj;durée;progression;priorité
+ * Les lignes vides et celles commençant par '#' sont ignorées.
+ */
+public final class TaskFileParser {
+
+    private static final String SEPARATOR = ";";
+
+    private TaskFileParser() {
+    }
+
+    /**
+     * Charge toutes les tâches d'un fichier projet.
+     */
+    public static List<Task> load(Path file) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        int lineNumber = 0;
+
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (isIgnored(line)) {
+                continue;
+            }
+            try {
+                tasks.add(parseLine(line));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + ":" + lineNumber + " : " + e.getMessage(), e);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Indique si la ligne est vide ou un commentaire.
+     */
+    public static boolean isIgnored(String line) {
+        String trimmed = line.trim();
+        return trimmed.isEmpty() || trimmed.startsWith("#");
+    }
+
+    /**
+     * Convertit une ligne en tâche.
+     */
+    public static Task parseLine(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Ligne invalide (5 champs attendus) : " + line);
+        }
+
+        try {
+            String name = fields[0].trim();
+            LocalDate startDate = LocalDate.parse(fields[1].trim());
+            int duration = Integer.parseInt(fields[2].trim());
+            int progress = Integer.parseInt(fields[3].trim());
+            String priority = fields[4].trim();
+            return new Task(name, startDate, duration, progress, priority);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Ligne invalide : " + line, e);
+        }
+    }
+}